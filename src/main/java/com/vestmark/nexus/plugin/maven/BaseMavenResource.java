@@ -78,7 +78,7 @@ public abstract class BaseMavenResource
 
     List<Repository> repos = Collections.emptyList();
     if (StringUtils.isNotBlank(repository)) {
-      Repository repo = repositoryManager.get(repository);
+      Repository repo = requireRepository(repository);
       GroupFacet groupFacet = repo.optionalFacet(GroupFacet.class).orElse(null);
       if (groupFacet != null) {
         repos = groupFacet.allMembers();
@@ -135,6 +135,18 @@ public abstract class BaseMavenResource
     return response;
   }
 
+  /**
+   * @throws IllegalArgumentException if no repository exists with the given name
+   */
+  protected Repository requireRepository(String repositoryName)
+  {
+    Repository repository = repositoryManager.get(repositoryName);
+    if (repository == null) {
+      throw new IllegalArgumentException(String.format("unknown repository '%s'", repositoryName));
+    }
+    return repository;
+  }
+
   protected List<MavenVersion> listVersions(
       int limit,
       String repository,
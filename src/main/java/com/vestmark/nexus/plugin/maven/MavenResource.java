@@ -56,7 +56,8 @@ public class MavenResource
   private static final Response invalidResponse = Response.status(400).build();
   private static final Response notFoundResponse = Response.status(404).build();
 
-  private static final String LATEST = "LATEST";
+  public static final String LATEST = "LATEST";
+  private static final String DEFAULT_EXTENSION = "jar";
   private static final String MAVEN2_EXTENSION = "extension";
   private static final String ASSET_NAME = "name";
   private static final String BLOBSTORE_CONTENT_TYPE = "BlobStore.content-type";
@@ -75,7 +76,7 @@ public class MavenResource
       @QueryParam("a") String artifactId,
       @QueryParam("v") String version,
       @QueryParam("c") String classifier,
-      @QueryParam("e") @DefaultValue("jar") String extension)
+      @QueryParam("e") @DefaultValue(DEFAULT_EXTENSION) String extension)
   {
     if (StringUtils.isBlank(repositoryName) || StringUtils.isBlank(groupId) || StringUtils.isBlank(artifactId)
         || StringUtils.isBlank(version)) {
@@ -83,24 +84,21 @@ public class MavenResource
       return invalidResponse;
     }
 
-    if (LATEST.equalsIgnoreCase(version)) {
-      List<MavenVersion> versions = versions(1, repositoryName, groupId, artifactId, classifier, extension);
-      if (versions.isEmpty()) {
-        return notFoundResponse;
-      }
-      version = versions.get(0).getBaseVersion();
-    }
-
-    if (log.isDebugEnabled()) {
-      log.debug("download version: {}", version);
-    }
-
     Repository repository = repositoryManager.get(repositoryName);
     if (null == repository || !MAVEN2.equals(repository.getFormat().getValue())) {
       log.warn("Repository supplied: {} is not a maven repo", repositoryName);
       return invalidResponse;
     }
 
+    version = resolveVersion(repositoryName, groupId, artifactId, version, classifier, extension);
+    if (version == null) {
+      return notFoundResponse;
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("download version: {}", version);
+    }
+
     StorageFacet facet = repository.facet(StorageFacet.class);
     Supplier<StorageTx> storageTxSupplier = facet.txSupplier();
     StorageTx storageTx = null;
@@ -110,30 +108,7 @@ public class MavenResource
       if (!storageTx.getDb().isActiveOnCurrentThread()) {
         storageTx.getDb().activateOnCurrentThread();
       }
-      SearchResponse searchResponse = searchMavenArtifacts(
-          repositoryName,
-          groupId,
-          artifactId,
-          classifier,
-          extension,
-          version,
-          1);
-
-      if (searchResponse.getHits().getTotalHits() == 0) {
-        return notFoundResponse;
-      }
-
-      SearchHit hit = searchResponse.getHits().getAt(0);
-      List<Map<String, Object>> assetList = (List<Map<String, Object>>) hit.getSource().get(ASSETS);
-      String assetName = null;
-      for (Map<String, Object> asset : assetList) {
-        Map<String, Object> attributes = (Map<String, Object>) asset.get(ATTRIBUTES);
-        Map<String, Object> maven2 = (Map<String, Object>) attributes.get(MAVEN2);
-        String assetExtension = (String) maven2.get(MAVEN2_EXTENSION);
-        if (extension.equals(assetExtension)) {
-          assetName = (String) asset.get(ASSET_NAME);
-        }
-      }
+      String assetName = findAssetName(repositoryName, groupId, artifactId, version, classifier, extension);
 
       if (log.isDebugEnabled()) {
         log.debug("download asset name: {}", assetName);
@@ -143,18 +118,7 @@ public class MavenResource
         return notFoundResponse;
       }
 
-      List<Repository> repos = Collections.singletonList(repository);
-      GroupFacet groupFacet = repository.optionalFacet(GroupFacet.class).orElse(null);
-      if (groupFacet != null) {
-        repos = groupFacet.allMembers();
-      }
-      if (log.isDebugEnabled()) {
-        log.debug("download repositories: {}", repos);
-      }
-
-      Query.Builder builder = Query.builder().where(ASSET_NAME).eq(assetName);
-      List<Asset> assets = StreamSupport.stream(storageTx.findAssets(builder.build(), repos).spliterator(), false)
-          .collect(Collectors.toList());
+      List<Asset> assets = findAssets(storageTx, repository, assetName);
 
       if (log.isDebugEnabled()) {
         log.debug("download assets found: {}", assets);
@@ -210,6 +174,127 @@ public class MavenResource
     }
   }
 
+  /**
+   * Resolves the version and asset exactly as {@link #download} does, including its default extension, then reads the
+   * asset from storage without marking it as downloaded. Used to warm the search and storage caches.
+   *
+   * @return the number of assets found in storage
+   * @throws IllegalArgumentException if the repository does not exist or is not a maven2 repository
+   */
+  public int prefetch(
+      String repositoryName,
+      String groupId,
+      String artifactId,
+      String version,
+      String classifier,
+      String extension)
+  {
+    Repository repository = requireRepository(repositoryName);
+    if (!MAVEN2.equals(repository.getFormat().getValue())) {
+      throw new IllegalArgumentException(String.format("repository '%s' is not a maven2 repository", repositoryName));
+    }
+
+    extension = StringUtils.defaultIfBlank(extension, DEFAULT_EXTENSION);
+    version = resolveVersion(repositoryName, groupId, artifactId, version, classifier, extension);
+    if (version == null) {
+      return 0;
+    }
+
+    String assetName = findAssetName(repositoryName, groupId, artifactId, version, classifier, extension);
+    if (assetName == null) {
+      return 0;
+    }
+
+    StorageTx storageTx = repository.facet(StorageFacet.class).txSupplier().get();
+    try {
+      storageTx.begin();
+      if (!storageTx.getDb().isActiveOnCurrentThread()) {
+        storageTx.getDb().activateOnCurrentThread();
+      }
+      int found = findAssets(storageTx, repository, assetName).size();
+      if (log.isDebugEnabled()) {
+        log.debug("prefetch {} assets found: {}", assetName, found);
+      }
+      return found;
+    }
+    finally {
+      if (storageTx.isActive()) {
+        storageTx.rollback();
+      }
+      storageTx.close();
+    }
+  }
+
+  /**
+   * @return the base version of the most recent component when version is LATEST, otherwise version; null if no
+   *         component matches
+   */
+  private String resolveVersion(
+      String repositoryName,
+      String groupId,
+      String artifactId,
+      String version,
+      String classifier,
+      String extension)
+  {
+    if (!LATEST.equalsIgnoreCase(version)) {
+      return version;
+    }
+    List<MavenVersion> versions = versions(1, repositoryName, groupId, artifactId, classifier, extension);
+    return versions.isEmpty() ? null : versions.get(0).getBaseVersion();
+  }
+
+  private String findAssetName(
+      String repositoryName,
+      String groupId,
+      String artifactId,
+      String version,
+      String classifier,
+      String extension)
+  {
+    SearchResponse searchResponse = searchMavenArtifacts(
+        repositoryName,
+        groupId,
+        artifactId,
+        classifier,
+        extension,
+        version,
+        1);
+
+    if (searchResponse.getHits().getTotalHits() == 0) {
+      return null;
+    }
+
+    SearchHit hit = searchResponse.getHits().getAt(0);
+    List<Map<String, Object>> assetList = (List<Map<String, Object>>) hit.getSource().get(ASSETS);
+    String assetName = null;
+    for (Map<String, Object> asset : assetList) {
+      Map<String, Object> attributes = (Map<String, Object>) asset.get(ATTRIBUTES);
+      Map<String, Object> maven2 = (Map<String, Object>) attributes.get(MAVEN2);
+      String assetExtension = (String) maven2.get(MAVEN2_EXTENSION);
+      if (extension.equals(assetExtension)) {
+        assetName = (String) asset.get(ASSET_NAME);
+      }
+    }
+    return assetName;
+  }
+
+  private List<Asset> findAssets(StorageTx storageTx, Repository repository, String assetName)
+  {
+    List<Repository> repos = Collections.singletonList(repository);
+    GroupFacet groupFacet = repository.optionalFacet(GroupFacet.class).orElse(null);
+    if (groupFacet != null) {
+      repos = groupFacet.allMembers();
+    }
+    if (log.isDebugEnabled()) {
+      log.debug("findAssets repositories: {}", repos);
+    }
+
+    Query.Builder builder = Query.builder().where(ASSET_NAME).eq(assetName);
+    return StreamSupport.stream(storageTx.findAssets(builder.build(), repos).spliterator(), false)
+        .collect(Collectors.toList());
+  }
+
   @GET
   @Path("versions")
   @Produces(MediaType.APPLICATION_JSON)
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018 Vestmark, Inc.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except 
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express 
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vestmark.nexus.plugin.maven.warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A hot artifact pattern in the form {@code [repository/]groupId:artifactId[:extension[:classifier]]}. The artifactId
+ * may be {@code *} to match every artifact in the group.
+ */
+public class HotArtifact
+{
+
+  private static final Logger log = LoggerFactory.getLogger(HotArtifact.class);
+
+  private static final String WILDCARD = "*";
+
+  private final String repository;
+  private final String groupId;
+  private final String artifactId;
+  private final String extension;
+  private final String classifier;
+
+  HotArtifact(String repository, String groupId, String artifactId, String extension, String classifier)
+  {
+    this.repository = repository;
+    this.groupId = groupId;
+    this.artifactId = artifactId;
+    this.extension = extension;
+    this.classifier = classifier;
+  }
+
+  /**
+   * Parses a comma or whitespace separated list of patterns, logging and skipping malformed entries.
+   */
+  public static List<HotArtifact> parse(String patterns)
+  {
+    if (StringUtils.isBlank(patterns)) {
+      return Collections.emptyList();
+    }
+    List<HotArtifact> artifacts = new ArrayList<>();
+    for (String pattern : StringUtils.split(patterns, ", \t\r\n")) {
+      String repository = null;
+      String gav = pattern;
+      int slash = pattern.indexOf('/');
+      if (slash >= 0) {
+        repository = pattern.substring(0, slash);
+        gav = pattern.substring(slash + 1);
+      }
+      String[] parts = StringUtils.splitPreserveAllTokens(gav, ':');
+      if ("".equals(repository) || gav.indexOf('/') >= 0 || !isValid(parts)) {
+        log.warn("Ignoring malformed hot artifact pattern: {}", pattern);
+        continue;
+      }
+      String artifactId = WILDCARD.equals(parts[1]) ? null : parts[1];
+      String extension = parts.length > 2 ? parts[2] : null;
+      String classifier = parts.length > 3 ? parts[3] : null;
+      artifacts.add(new HotArtifact(repository, parts[0], artifactId, extension, classifier));
+    }
+    return artifacts;
+  }
+
+  private static boolean isValid(String[] parts)
+  {
+    if (parts.length < 2 || parts.length > 4) {
+      return false;
+    }
+    for (int i = 0; i < parts.length; i++) {
+      if (StringUtils.isBlank(parts[i]) || (i != 1 && WILDCARD.equals(parts[i]))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public String getRepository()
+  {
+    return repository;
+  }
+
+  public String getGroupId()
+  {
+    return groupId;
+  }
+
+  public String getArtifactId()
+  {
+    return artifactId;
+  }
+
+  /**
+   * @return the extension, or null to use the download default
+   */
+  public String getExtension()
+  {
+    return extension;
+  }
+
+  public String getClassifier()
+  {
+    return classifier;
+  }
+
+  /**
+   * Whether the pattern names a single artifact in a single repository, as required by the download endpoint.
+   */
+  public boolean isDownloadable()
+  {
+    return repository != null && artifactId != null;
+  }
+
+  @Override
+  public String toString()
+  {
+    return String.format(
+        "%s%s:%s%s%s",
+        repository == null ? "" : repository + "/",
+        groupId,
+        artifactId == null ? WILDCARD : artifactId,
+        extension == null ? "" : ":" + extension,
+        classifier == null ? "" : ":" + classifier);
+  }
+}
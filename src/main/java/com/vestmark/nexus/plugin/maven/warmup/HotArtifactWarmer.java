@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018 Vestmark, Inc.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except 
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express 
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vestmark.nexus.plugin.maven.warmup;
+
+import static org.sonatype.nexus.common.app.ManagedLifecycle.Phase.TASKS;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.sonatype.nexus.common.app.ManagedLifecycle;
+import org.sonatype.nexus.common.stateguard.StateGuardLifecycleSupport;
+
+import com.vestmark.nexus.plugin.maven.MavenResource;
+
+/**
+ * Pre-resolves the configured hot artifacts so the first option loads and LATEST downloads after a restart do not
+ * pay for cold search filter caches, group resolution and storage pages. The patterns are read from the
+ * {@code nexus.maven.rundeck.hotArtifacts} property and warmed in the background on start; the
+ * {@link HotArtifactWarmupTask} refreshes them on a schedule.
+ */
+@Named
+@Singleton
+@ManagedLifecycle(phase = TASKS)
+public class HotArtifactWarmer
+    extends StateGuardLifecycleSupport
+{
+
+  private static final long STOP_TIMEOUT_SECONDS = 10;
+
+  private final MavenResource mavenResource;
+  private final List<HotArtifact> hotArtifacts;
+  private final int limit;
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  private volatile WarmupStatus status;
+  private volatile boolean stopping;
+  private ExecutorService executor;
+
+  @Inject
+  public HotArtifactWarmer(
+      MavenResource mavenResource,
+      @Named("${nexus.maven.rundeck.hotArtifacts:-}") String hotArtifacts,
+      @Named("${nexus.maven.rundeck.warmup.limit:-10}") int limit)
+  {
+    this.mavenResource = mavenResource;
+    this.hotArtifacts = HotArtifact.parse(hotArtifacts);
+    this.limit = limit;
+  }
+
+  @Override
+  protected void doStart() throws Exception
+  {
+    stopping = false;
+    if (hotArtifacts.isEmpty()) {
+      log.debug("No hot artifacts configured, skipping warm-up");
+      return;
+    }
+    executor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "maven-rundeck-warmup");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.submit(() -> warm(hotArtifacts, () -> stopping));
+  }
+
+  /**
+   * Stops the start-up warm-up between patterns rather than interrupting it, as interrupting a thread during storage
+   * I/O can close the database's file channels.
+   */
+  @Override
+  protected void doStop() throws Exception
+  {
+    stopping = true;
+    if (executor != null) {
+      executor.shutdown();
+      if (!executor.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        log.warn("Hot artifact warm-up did not finish within {} seconds of stopping", STOP_TIMEOUT_SECONDS);
+      }
+      executor = null;
+    }
+  }
+
+  public List<HotArtifact> getHotArtifacts()
+  {
+    return hotArtifacts;
+  }
+
+  /**
+   * @return the status of the current or most recent run, or null if no run has started
+   */
+  public WarmupStatus getStatus()
+  {
+    return status;
+  }
+
+  /**
+   * Warms each artifact in turn, recording a timing per artifact. If another run is in progress, such as the start-up
+   * warm-up when the scheduled task fires, this run is skipped and the status of the other run is returned.
+   */
+  public WarmupStatus warm(List<HotArtifact> artifacts, BooleanSupplier canceled)
+  {
+    if (!running.compareAndSet(false, true)) {
+      log.info("Hot artifact warm-up already running, skipping");
+      return status;
+    }
+    try {
+      WarmupStatus current = new WarmupStatus(artifacts.size());
+      status = current;
+      log.info("Warming {} hot artifact pattern(s)", artifacts.size());
+      boolean stopped = false;
+      for (HotArtifact artifact : artifacts) {
+        if (canceled.getAsBoolean()) {
+          stopped = true;
+          break;
+        }
+        current.addTiming(warm(artifact));
+      }
+      current.finish(stopped);
+      log.info(
+          "Warmed {} of {} hot artifact pattern(s) in {} ms, {} failed",
+          current.getCompleted(),
+          current.getTotal(),
+          current.getDurationMillis(),
+          current.getFailed());
+      return current;
+    }
+    finally {
+      running.set(false);
+    }
+  }
+
+  /**
+   * Runs the versions query an option load makes, then for downloadable patterns the LATEST download path. The two
+   * resolve LATEST with different queries (the download filters on the default extension and a limit of one), so both
+   * are run to warm the caches each endpoint uses.
+   */
+  private WarmupTiming warm(HotArtifact artifact)
+  {
+    long start = System.currentTimeMillis();
+    int versions = 0;
+    int assets = 0;
+    String error = null;
+    try {
+      versions = mavenResource.versions(
+          limit,
+          artifact.getRepository(),
+          artifact.getGroupId(),
+          artifact.getArtifactId(),
+          artifact.getClassifier(),
+          artifact.getExtension()).size();
+      if (artifact.isDownloadable()) {
+        assets = mavenResource.prefetch(
+            artifact.getRepository(),
+            artifact.getGroupId(),
+            artifact.getArtifactId(),
+            MavenResource.LATEST,
+            artifact.getClassifier(),
+            artifact.getExtension());
+      }
+    }
+    catch (IllegalArgumentException e) {
+      log.warn("Failed to warm hot artifact {}: {}", artifact, e.getMessage());
+      error = e.getMessage();
+    }
+    catch (RuntimeException e) {
+      log.warn("Failed to warm hot artifact {}", artifact, e);
+      error = e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+    }
+    long duration = System.currentTimeMillis() - start;
+    if (log.isDebugEnabled()) {
+      log.debug("Warmed {} in {} ms: versions: {}, assets: {}", artifact, duration, versions, assets);
+    }
+    return new WarmupTiming(artifact.toString(), versions, assets, duration, error);
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 Vestmark, Inc.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except 
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express 
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vestmark.nexus.plugin.maven.warmup;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.apache.commons.lang.StringUtils;
+import org.sonatype.nexus.scheduling.TaskSupport;
+
+/**
+ * Refreshes the hot artifacts, using the task's own patterns when set and the configured defaults otherwise.
+ */
+@Named
+public class HotArtifactWarmupTask
+    extends TaskSupport
+{
+
+  private final HotArtifactWarmer warmer;
+
+  @Inject
+  public HotArtifactWarmupTask(HotArtifactWarmer warmer)
+  {
+    this.warmer = warmer;
+  }
+
+  @Override
+  protected Object execute() throws Exception
+  {
+    String patterns = getConfiguration().getString(HotArtifactWarmupTaskDescriptor.HOT_ARTIFACTS_FIELD_ID);
+    List<HotArtifact> artifacts = StringUtils.isBlank(patterns) ? warmer.getHotArtifacts()
+        : HotArtifact.parse(patterns);
+    return warmer.warm(artifacts, this::isCanceled);
+  }
+
+  @Override
+  public String getMessage()
+  {
+    return "Warm up hot Maven artifacts";
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2018 Vestmark, Inc.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except 
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express 
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vestmark.nexus.plugin.maven.warmup;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.sonatype.nexus.formfields.FormField;
+import org.sonatype.nexus.formfields.StringTextFormField;
+import org.sonatype.nexus.scheduling.TaskDescriptorSupport;
+
+@Named
+@Singleton
+public class HotArtifactWarmupTaskDescriptor
+    extends TaskDescriptorSupport
+{
+
+  public static final String TYPE_ID = "maven.rundeck.warmup";
+  public static final String HOT_ARTIFACTS_FIELD_ID = "hotArtifacts";
+
+  public HotArtifactWarmupTaskDescriptor()
+  {
+    super(
+        TYPE_ID,
+        HotArtifactWarmupTask.class,
+        "Maven - Warm up hot artifacts",
+        true,
+        true,
+        new StringTextFormField(
+            HOT_ARTIFACTS_FIELD_ID,
+            "Hot artifacts",
+            "Comma separated [repository/]groupId:artifactId[:extension[:classifier]] patterns, defaults to "
+                + "nexus.maven.rundeck.hotArtifacts",
+            FormField.OPTIONAL));
+  }
+}
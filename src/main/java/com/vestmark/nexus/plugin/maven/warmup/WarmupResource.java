@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 Vestmark, Inc.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except 
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express 
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vestmark.nexus.plugin.maven.warmup;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.sonatype.goodies.common.ComponentSupport;
+import org.sonatype.nexus.rest.Resource;
+
+@Named
+@Singleton
+@Path("/maven/warmup")
+public class WarmupResource
+    extends ComponentSupport
+    implements Resource
+{
+
+  private final HotArtifactWarmer warmer;
+
+  @Inject
+  public WarmupResource(HotArtifactWarmer warmer)
+  {
+    this.warmer = warmer;
+  }
+
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public WarmupStatus status()
+  {
+    return warmer.getStatus();
+  }
+}
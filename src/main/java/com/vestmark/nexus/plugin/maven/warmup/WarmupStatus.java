@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018 Vestmark, Inc.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except 
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express 
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vestmark.nexus.plugin.maven.warmup;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Progress and timings of the most recent warm-up run.
+ */
+public class WarmupStatus
+{
+
+  private final int total;
+  private final Date started;
+  private final List<WarmupTiming> timings = new CopyOnWriteArrayList<>();
+  private volatile Date finished;
+  private volatile boolean canceled;
+
+  WarmupStatus(int total)
+  {
+    this.total = total;
+    this.started = new Date();
+  }
+
+  public boolean isRunning()
+  {
+    return finished == null;
+  }
+
+  public boolean isCanceled()
+  {
+    return canceled;
+  }
+
+  public int getTotal()
+  {
+    return total;
+  }
+
+  public int getCompleted()
+  {
+    return timings.size();
+  }
+
+  public int getFailed()
+  {
+    return (int) timings.stream().filter(timing -> timing.getError() != null).count();
+  }
+
+  public Date getStarted()
+  {
+    return started;
+  }
+
+  public Date getFinished()
+  {
+    return finished;
+  }
+
+  public long getDurationMillis()
+  {
+    return (finished == null ? System.currentTimeMillis() : finished.getTime()) - started.getTime();
+  }
+
+  public List<WarmupTiming> getTimings()
+  {
+    return timings;
+  }
+
+  void addTiming(WarmupTiming timing)
+  {
+    timings.add(timing);
+  }
+
+  void finish(boolean canceled)
+  {
+    this.canceled = canceled;
+    this.finished = new Date();
+  }
+}
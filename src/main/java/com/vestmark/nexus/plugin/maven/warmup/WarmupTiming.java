@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018 Vestmark, Inc.
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except 
+ * in compliance with the License. You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express 
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.vestmark.nexus.plugin.maven.warmup;
+
+public class WarmupTiming
+{
+
+  private final String artifact;
+  private final int versions;
+  private final int assets;
+  private final long durationMillis;
+  private final String error;
+
+  WarmupTiming(String artifact, int versions, int assets, long durationMillis, String error)
+  {
+    this.artifact = artifact;
+    this.versions = versions;
+    this.assets = assets;
+    this.durationMillis = durationMillis;
+    this.error = error;
+  }
+
+  public String getArtifact()
+  {
+    return artifact;
+  }
+
+  public int getVersions()
+  {
+    return versions;
+  }
+
+  public int getAssets()
+  {
+    return assets;
+  }
+
+  public long getDurationMillis()
+  {
+    return durationMillis;
+  }
+
+  public String getError()
+  {
+    return error;
+  }
+}